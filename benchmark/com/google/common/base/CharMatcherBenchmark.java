@@ -0,0 +1,148 @@
+/*
+ * Copyright (C) 2012 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.base;
+
+import com.google.caliper.BeforeExperiment;
+import com.google.caliper.Benchmark;
+import com.google.caliper.Param;
+import com.google.common.base.BenchmarkHelpers.SampleMatcherConfig;
+
+import java.util.BitSet;
+import java.util.Random;
+
+/**
+ * Benchmark for the {@link CharMatcher} class.
+ *
+ * @author David Beaumont
+ * @author Kevin Bourrillion
+ * @author David Richter
+ */
+public class CharMatcherBenchmark {
+
+    // Caliper injects params automatically
+
+    // Overall configuration
+    @Param
+    SampleMatcherConfig config;
+
+    // Length of string to match against, from 16 chars up to 16M chars
+    @Param({"16", "1024", "65536", "1048576", "16777216"})
+    int length;
+
+    // Percent of string that the CharMatcher matches
+    @Param({"0", "10", "50", "100"})
+    int percent;
+
+    // How the CharMatcher is represented
+    @Param
+    Representation representation;
+
+    enum Representation {
+        /** The matcher as configured, not precomputed. */
+        RAW,
+        /** Whatever {@link CharMatcher#precomputed()} chooses. */
+        PRECOMPUTED,
+        /** An open-addressed {@link SmallCharMatcher} hash table, regardless of cardinality. */
+        SMALL
+    }
+
+    private CharMatcher matcher;
+    private String string;
+
+    // Caliper invokes setUp() with the injected parameters
+    @BeforeExperiment
+    void setUp() {
+        switch (representation) {
+            case RAW:
+                this.matcher = config.matcher;
+                break;
+            case PRECOMPUTED:
+                this.matcher = config.matcher.precomputed();
+                break;
+            case SMALL:
+                BitSet table = new BitSet();
+                config.matcher.setBits(table);
+                this.matcher = SmallCharMatcher.from(table, config.matcher.toString());
+                break;
+            default:
+                throw new AssertionError(representation);
+        }
+        // A fixed seed keeps the input, and so the timings, comparable from one run to the next.
+        this.string =
+                BenchmarkHelpers.checkString(length, percent, config.matchingChars, new Random(0));
+    }
+
+    @Benchmark
+    int matches(int reps) {
+        CharMatcher matcher = this.matcher;
+        String string = this.string;
+        int dummy = 0;
+        for (int i = 0; i < reps; i++) {
+            for (int j = 0; j < string.length(); j++) {
+                if (matcher.matches(string.charAt(j))) {
+                    dummy++;
+                }
+            }
+        }
+        return dummy;
+    }
+
+    @Benchmark
+    int indexIn(int reps) {
+        int dummy = 0;
+        for (int i = 0; i < reps; i++) {
+            dummy += matcher.indexIn(string);
+        }
+        return dummy;
+    }
+
+    @Benchmark
+    int countIn(int reps) {
+        int dummy = 0;
+        for (int i = 0; i < reps; i++) {
+            dummy += matcher.countIn(string);
+        }
+        return dummy;
+    }
+
+    @Benchmark
+    int trimFrom(int reps) {
+        int dummy = 0;
+        for (int i = 0; i < reps; i++) {
+            dummy += matcher.trimFrom(string).length();
+        }
+        return dummy;
+    }
+
+    @Benchmark
+    int collapseFrom(int reps) {
+        int dummy = 0;
+        for (int i = 0; i < reps; i++) {
+            dummy += matcher.collapseFrom(string, '!').length();
+        }
+        return dummy;
+    }
+
+    @Benchmark
+    int removeFrom(int reps) {
+        int dummy = 0;
+        for (int i = 0; i < reps; i++) {
+            dummy += matcher.removeFrom(string).length();
+        }
+        return dummy;
+    }
+}
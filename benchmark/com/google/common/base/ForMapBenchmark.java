@@ -0,0 +1,122 @@
+/*
+ * Copyright (C) 2021 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.base;
+
+import com.google.caliper.BeforeExperiment;
+import com.google.caliper.Benchmark;
+import com.google.caliper.Param;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
+
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Benchmarks {@link Functions#forMap} lookups with {@code int} keys, and building the backing
+ * table. Under Caliper's allocation instrument, {@link #build} reports everything allocated during
+ * construction, including builder scratch space and resizes; it does not report the retained size
+ * of the finished table. {@link IntArrayLookupBenchmark} is the no-boxing, no-hashing baseline.
+ */
+public class ForMapBenchmark {
+    // Service-id-like keys: dense, but well outside the Integer.valueOf cache.
+    static final int KEY_OFFSET = 1_000_000;
+
+    // Number of entries in the map
+    @Param({"16", "1024", "65536"})
+    int size;
+
+    // Map implementation backing the function
+    @Param
+    MapImpl impl;
+
+    enum MapImpl {
+        HASH_MAP {
+            @Override
+            Map<Integer, String> create(String[] names) {
+                Map<Integer, String> map = Maps.newHashMapWithExpectedSize(names.length);
+                for (int i = 0; i < names.length; i++) {
+                    map.put(KEY_OFFSET + i, names[i]);
+                }
+                return map;
+            }
+        },
+        IMMUTABLE_MAP {
+            @Override
+            Map<Integer, String> create(String[] names) {
+                ImmutableMap.Builder<Integer, String> builder =
+                        ImmutableMap.builderWithExpectedSize(names.length);
+                for (int i = 0; i < names.length; i++) {
+                    builder.put(KEY_OFFSET + i, names[i]);
+                }
+                return builder.build();
+            }
+        };
+
+        abstract Map<Integer, String> create(String[] names);
+    }
+
+    private Function<Integer, String> forMap;
+    private String[] names;
+    private int[] keys;
+
+    @BeforeExperiment
+    void setUp() {
+        names = names(size);
+        forMap = Functions.forMap(impl.create(names), "unknown");
+        keys = keys(size);
+    }
+
+    /** Returns the value for each of {@code size} keys, indexed by key minus {@link #KEY_OFFSET}. */
+    static String[] names(int size) {
+        String[] names = new String[size];
+        for (int i = 0; i < size; i++) {
+            names[i] = "service-" + i;
+        }
+        return names;
+    }
+
+    /** Returns 1024 keys chosen at random among the {@code size} keys present. */
+    static int[] keys(int size) {
+        Random random = new Random(0);
+        int[] keys = new int[1024];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = KEY_OFFSET + random.nextInt(size);
+        }
+        return keys;
+    }
+
+    /** Builds the backing map and wraps it with {@link Functions#forMap}. */
+    @Benchmark
+    int build(int reps) {
+        int dummy = 0;
+        for (int i = 0; i < reps; i++) {
+            dummy += System.identityHashCode(Functions.forMap(impl.create(names), "unknown"));
+        }
+        return dummy;
+    }
+
+    /** Looks up {@code int} keys through {@link Functions#forMap}, boxing each one. */
+    @Benchmark
+    int forMapIntKeys(int reps) {
+        int[] keys = this.keys;
+        int dummy = 0;
+        for (int i = 0; i < reps; i++) {
+            dummy += forMap.apply(keys[i & (keys.length - 1)]).length();
+        }
+        return dummy;
+    }
+}
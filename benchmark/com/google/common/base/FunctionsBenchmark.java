@@ -0,0 +1,63 @@
+/*
+ * Copyright (C) 2021 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.base;
+
+import com.google.caliper.BeforeExperiment;
+import com.google.caliper.Benchmark;
+import com.google.caliper.Param;
+
+/**
+ * Benchmarks applying chains of {@link Functions#compose} of increasing depth.
+ */
+public class FunctionsBenchmark {
+
+    // Number of functions in the composed chain
+    @Param({"1", "2", "8", "64"})
+    int depth;
+
+    private Function<Integer, Integer> composition;
+
+    @BeforeExperiment
+    void setUp() {
+        Function<Integer, Integer> result = Increment.INSTANCE;
+        for (int i = 1; i < depth; i++) {
+            // Alternate identity() steps with real work, as call sites built up piecemeal often do.
+            Function<Integer, Integer> step =
+                    (i % 2 == 0) ? Increment.INSTANCE : Functions.<Integer>identity();
+            result = Functions.compose(step, result);
+        }
+        composition = result;
+    }
+
+    @Benchmark
+    int composedApply(int reps) {
+        int dummy = 0;
+        for (int i = 0; i < reps; i++) {
+            dummy += composition.apply(i);
+        }
+        return dummy;
+    }
+
+    private enum Increment implements Function<Integer, Integer> {
+        INSTANCE;
+
+        @Override
+        public Integer apply(Integer input) {
+            return input + 1;
+        }
+    }
+}
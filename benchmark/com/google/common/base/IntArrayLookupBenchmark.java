@@ -0,0 +1,54 @@
+/*
+ * Copyright (C) 2021 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.base;
+
+import com.google.caliper.BeforeExperiment;
+import com.google.caliper.Benchmark;
+import com.google.caliper.Param;
+
+import static com.google.common.base.ForMapBenchmark.KEY_OFFSET;
+
+/**
+ * Baseline for {@link ForMapBenchmark}: the same {@code int} key lookups against a flat array,
+ * with no boxing and no hashing.
+ */
+public class IntArrayLookupBenchmark {
+
+    // Number of entries in the table
+    @Param({"16", "1024", "65536"})
+    int size;
+
+    private String[] names;
+    private int[] keys;
+
+    @BeforeExperiment
+    void setUp() {
+        names = ForMapBenchmark.names(size);
+        keys = ForMapBenchmark.keys(size);
+    }
+
+    @Benchmark
+    int arrayIntKeys(int reps) {
+        int[] keys = this.keys;
+        String[] names = this.names;
+        int dummy = 0;
+        for (int i = 0; i < reps; i++) {
+            dummy += names[keys[i & (keys.length - 1)] - KEY_OFFSET].length();
+        }
+        return dummy;
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (C) 2021 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.base;
+
+import com.google.caliper.BeforeExperiment;
+import com.google.caliper.Benchmark;
+import com.google.caliper.Param;
+import com.google.common.base.Joiner.MapJoiner;
+import com.google.common.collect.Maps;
+
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Random;
+
+/**
+ * Benchmarks {@link MapJoiner} on {@code Map<String, Long>} metrics-style maps, against a
+ * hand-written loop that appends {@link Number} and {@link CharSequence} values without calling
+ * {@code toString()} on them.
+ */
+public class MapJoinerBenchmark {
+    private static final MapJoiner JOINER = Joiner.on(',').withKeyValueSeparator('=');
+
+    @Param({"10", "1000", "100000", "1000000"})
+    int size;
+
+    private Map<String, Long> map;
+
+    @BeforeExperiment
+    void setUp() {
+        Random random = new Random(0xdeadbeef);
+        map = Maps.newLinkedHashMapWithExpectedSize(size);
+        for (int i = 0; i < size; i++) {
+            map.put("metric_" + i, random.nextLong());
+        }
+    }
+
+    /** {@link MapJoiner#join(Map)}, which calls {@code toString()} on every key and value. */
+    @Benchmark
+    int mapJoinerJoin(int reps) {
+        int dummy = 0;
+        for (int i = 0; i < reps; i++) {
+            dummy += JOINER.join(map).length();
+        }
+        return dummy;
+    }
+
+    /** {@link MapJoiner#appendTo(StringBuilder, Map)} into a reused builder. */
+    @Benchmark
+    int mapJoinerAppendTo(int reps) {
+        StringBuilder sb = new StringBuilder();
+        int dummy = 0;
+        for (int i = 0; i < reps; i++) {
+            sb.setLength(0);
+            dummy += JOINER.appendTo(sb, map).length();
+        }
+        return dummy;
+    }
+
+    /** The same output, appending {@code long} values and {@code CharSequence} keys directly. */
+    @Benchmark
+    int directAppend(int reps) {
+        StringBuilder sb = new StringBuilder();
+        int dummy = 0;
+        for (int i = 0; i < reps; i++) {
+            sb.setLength(0);
+            boolean first = true;
+            for (Entry<String, Long> entry : map.entrySet()) {
+                if (!first) {
+                    sb.append(',');
+                }
+                first = false;
+                appendPart(sb, entry.getKey());
+                sb.append('=');
+                appendPart(sb, entry.getValue());
+            }
+            dummy += sb.length();
+        }
+        return dummy;
+    }
+
+    private static void appendPart(StringBuilder sb, Object part) {
+        if (part instanceof CharSequence) {
+            sb.append((CharSequence) part);
+        } else if (part instanceof Long || part instanceof Integer) {
+            sb.append(((Number) part).longValue());
+        } else {
+            sb.append(part.toString());
+        }
+    }
+}
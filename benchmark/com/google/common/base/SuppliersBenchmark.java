@@ -0,0 +1,70 @@
+/*
+ * Copyright (C) 2021 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.base;
+
+import com.google.caliper.BeforeExperiment;
+import com.google.caliper.Benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@code get()} on memoizing suppliers whose value is already loaded. The difference
+ * between {@link #memoizeWithExpiration} and {@link #memoize} is the cost of the expiration check,
+ * and {@link #nanoTime} gives the clock read it is built on.
+ */
+public class SuppliersBenchmark {
+    private static final Supplier<Object> DELEGATE = Suppliers.ofInstance(new Object());
+
+    private Supplier<Object> memoized;
+    private Supplier<Object> expiring;
+
+    @BeforeExperiment
+    void setUp() {
+        memoized = Suppliers.memoize(DELEGATE);
+        expiring = Suppliers.memoizeWithExpiration(DELEGATE, 1, TimeUnit.DAYS);
+        // Load both so that every timed get() hits a fresh value.
+        memoized.get();
+        expiring.get();
+    }
+
+    @Benchmark
+    int memoize(int reps) {
+        int dummy = 0;
+        for (int i = 0; i < reps; i++) {
+            dummy += System.identityHashCode(memoized.get());
+        }
+        return dummy;
+    }
+
+    @Benchmark
+    int memoizeWithExpiration(int reps) {
+        int dummy = 0;
+        for (int i = 0; i < reps; i++) {
+            dummy += System.identityHashCode(expiring.get());
+        }
+        return dummy;
+    }
+
+    @Benchmark
+    long nanoTime(int reps) {
+        long dummy = 0;
+        for (int i = 0; i < reps; i++) {
+            dummy += System.nanoTime();
+        }
+        return dummy;
+    }
+}
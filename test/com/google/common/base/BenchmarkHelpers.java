@@ -14,6 +14,8 @@
 
 package com.google.common.base;
 
+import java.util.Random;
+
 /**
  * Common benchmarking utilities.
  *
@@ -87,4 +89,26 @@ class BenchmarkHelpers {
             this.matchingChars = matchingChars;
         }
     }
+
+    /**
+     * Returns a random string of the given length in which {@code percent} percent of the chars are
+     * taken from {@code matchingChars} and the rest are chars that {@code matchingChars} does not
+     * contain.
+     */
+    static String checkString(int length, int percent, String matchingChars, Random rand) {
+        CharMatcher matching = CharMatcher.anyOf(matchingChars).precomputed();
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            if (rand.nextInt(100) < percent) {
+                builder.append(matchingChars.charAt(rand.nextInt(matchingChars.length())));
+            } else {
+                char c;
+                do {
+                    c = (char) rand.nextInt(Character.MAX_VALUE + 1);
+                } while (matching.matches(c));
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
 }
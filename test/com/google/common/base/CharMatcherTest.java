@@ -18,10 +18,13 @@ package com.google.common.base;
 
 import com.google.common.annotations.GwtCompatible;
 import com.google.common.annotations.GwtIncompatible;
+import com.google.common.base.BenchmarkHelpers.SampleMatcherConfig;
 import com.google.common.collect.Sets;
 import junit.framework.AssertionFailedError;
 import junit.framework.TestCase;
 
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
 import java.util.*;
 
 import static com.google.common.base.CharMatcher.*;
@@ -107,6 +110,13 @@ public class CharMatcherTest extends TestCase {
         doTestSetBits(CharMatcher.invisible());
         doTestSetBits(CharMatcher.whitespace());
         doTestSetBits(inRange('A', 'Z').and(inRange('F', 'K').negate()));
+        doTestSetBits(CharMatcher.javaLetter());
+        doTestSetBits(anyOf("+-*/%"));
+        doTestSetBits(CharMatcher.breakingWhitespace().precomputed());
+        doTestSetBits(CharMatcher.digit().precomputed());
+        doTestSetBits(CharMatcher.javaLetter().precomputed());
+        doTestSetBits(anyOf("+-*/%").precomputed());
+        doTestSetBits(CharMatcher.whitespace().or(CharMatcher.digit()).precomputed().negate());
     }
 
     @GwtIncompatible // java.util.BitSet
@@ -263,6 +273,53 @@ public class CharMatcherTest extends TestCase {
         assertEquals(s.length(), matcher.countIn(s));
     }
 
+    @GwtIncompatible // java.nio.CharBuffer
+    public void testCharBufferInput() {
+        doTestCharBufferInput(CharMatcher.whitespace(), "  foo \t bar\r\n");
+        doTestCharBufferInput(CharMatcher.ascii(), "na\u00efve caf\u00e9");
+        doTestCharBufferInput(is('-'), "--x-x--xx---x----x--");
+        doTestCharBufferInput(anyOf("-#123"), "x-1x#-xx---x");
+        doTestCharBufferInput(CharMatcher.digit(), "\u0ED0abc123\u1B59");
+    }
+
+    @GwtIncompatible // java.nio.CharBuffer
+    private void doTestCharBufferInput(CharMatcher matcher, String s) {
+        for (CharMatcher m : new CharMatcher[]{matcher, matcher.negate(), matcher.precomputed()}) {
+            reallyTestCharBufferInput(m, s, CharBuffer.wrap(s));
+            reallyTestCharBufferInput(m, s, directCharBuffer(s));
+            // A buffer whose position is not zero is read relative to that position.
+            CharBuffer offset = CharBuffer.wrap("##" + s);
+            offset.position(2);
+            reallyTestCharBufferInput(m, s, offset);
+        }
+    }
+
+    @GwtIncompatible // java.nio.CharBuffer
+    private void reallyTestCharBufferInput(CharMatcher matcher, String s, CharBuffer buffer) {
+        int position = buffer.position();
+        assertEquals(matcher.indexIn(s), matcher.indexIn(buffer));
+        assertEquals(matcher.lastIndexIn(s), matcher.lastIndexIn(buffer));
+        assertEquals(matcher.countIn(s), matcher.countIn(buffer));
+        assertEquals(matcher.removeFrom(s), matcher.removeFrom(buffer));
+        assertEquals(matcher.retainFrom(s), matcher.retainFrom(buffer));
+        assertEquals(matcher.replaceFrom(s, 'z'), matcher.replaceFrom(buffer, 'z'));
+        assertEquals(matcher.replaceFrom(s, "ZZ"), matcher.replaceFrom(buffer, "ZZ"));
+        assertEquals(matcher.trimFrom(s), matcher.trimFrom(buffer));
+        assertEquals(matcher.collapseFrom(s, '_'), matcher.collapseFrom(buffer, '_'));
+        assertEquals(matcher.trimAndCollapseFrom(s, '_'), matcher.trimAndCollapseFrom(buffer, '_'));
+        // None of the above may consume the buffer.
+        assertEquals(position, buffer.position());
+        assertEquals(s.length(), buffer.remaining());
+    }
+
+    @GwtIncompatible // java.nio.ByteBuffer
+    private static CharBuffer directCharBuffer(String s) {
+        CharBuffer buffer = ByteBuffer.allocateDirect(s.length() * 2).asCharBuffer();
+        buffer.put(s);
+        buffer.flip();
+        return buffer;
+    }
+
     /**
      * Checks that expected is equals to out, and further, if in is equals to expected, then out is
      * successfully optimized to be identical to in, i.e. that "in" is simply returned.
@@ -506,6 +563,26 @@ public class CharMatcherTest extends TestCase {
         assertSame(CharMatcher.any(), CharMatcher.any().precomputed());
     }
 
+    public void testPrecomputedMatchesEveryChar() {
+        doTestPrecomputedMatchesEveryChar(CharMatcher.digit());
+        doTestPrecomputedMatchesEveryChar(CharMatcher.javaLetter());
+        doTestPrecomputedMatchesEveryChar(CharMatcher.javaLetterOrDigit());
+        doTestPrecomputedMatchesEveryChar(CharMatcher.breakingWhitespace());
+        doTestPrecomputedMatchesEveryChar(CharMatcher.invisible());
+        doTestPrecomputedMatchesEveryChar(CharMatcher.singleWidth());
+        doTestPrecomputedMatchesEveryChar(CharMatcher.digit().or(CharMatcher.whitespace()));
+    }
+
+    private void doTestPrecomputedMatchesEveryChar(CharMatcher matcher) {
+        CharMatcher precomputed = matcher.precomputed();
+        CharMatcher negated = matcher.negate().precomputed();
+        for (int c = Character.MIN_VALUE; c <= Character.MAX_VALUE; c++) {
+            boolean expected = matcher.matches((char) c);
+            assertEquals(Integer.toHexString(c), expected, precomputed.matches((char) c));
+            assertEquals(Integer.toHexString(c), !expected, negated.matches((char) c));
+        }
+    }
+
     @GwtIncompatible // java.util.BitSet
     private static BitSet bitSet(String chars) {
         return bitSet(chars.toCharArray());
@@ -555,6 +632,41 @@ public class CharMatcherTest extends TestCase {
         }
     }
 
+    @GwtIncompatible // java.util.Random
+    public void testPrecomputedEquivalence_sampleMatcherConfigs() {
+        Random rand = new Random(1234);
+        for (SampleMatcherConfig config : SampleMatcherConfig.values()) {
+            CharMatcher precomputed = config.matcher.precomputed();
+            // Lengths straddle the 16- and 32-char strides a bulk scan may step by.
+            for (int length : new int[]{1, 15, 16, 17, 31, 32, 33, 64, 1000}) {
+                for (int percent : new int[]{0, 10, 50, 90, 100}) {
+                    String s = BenchmarkHelpers.checkString(length, percent, config.matchingChars, rand);
+                    assertEquivalent(config.name(), config.matcher, precomputed, s);
+                }
+            }
+        }
+    }
+
+    private static void assertEquivalent(
+            String name, CharMatcher expected, CharMatcher actual, String s) {
+        for (int i = 0; i < s.length(); i++) {
+            assertEquals(name, expected.matches(s.charAt(i)), actual.matches(s.charAt(i)));
+        }
+        assertEquals(name, expected.indexIn(s), actual.indexIn(s));
+        assertEquals(name, expected.indexIn(s, s.length() / 2), actual.indexIn(s, s.length() / 2));
+        assertEquals(name, expected.lastIndexIn(s), actual.lastIndexIn(s));
+        assertEquals(name, expected.countIn(s), actual.countIn(s));
+        assertEquals(name, expected.matchesAnyOf(s), actual.matchesAnyOf(s));
+        assertEquals(name, expected.matchesAllOf(s), actual.matchesAllOf(s));
+        assertEquals(name, expected.matchesNoneOf(s), actual.matchesNoneOf(s));
+        assertEquals(name, expected.trimFrom(s), actual.trimFrom(s));
+        assertEquals(name, expected.trimLeadingFrom(s), actual.trimLeadingFrom(s));
+        assertEquals(name, expected.trimTrailingFrom(s), actual.trimTrailingFrom(s));
+        assertEquals(name, expected.collapseFrom(s, '!'), actual.collapseFrom(s, '!'));
+        assertEquals(name, expected.removeFrom(s), actual.removeFrom(s));
+        assertEquals(name, expected.retainFrom(s), actual.retainFrom(s));
+    }
+
     static void checkExactMatches(CharMatcher m, char[] chars) {
         Set<Character> positive = Sets.newHashSetWithExpectedSize(chars.length);
         for (char c : chars) {
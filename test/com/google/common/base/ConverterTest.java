@@ -78,6 +78,25 @@ public class ConverterTest extends TestCase {
         assertEquals(ImmutableList.of("123"), mutableList);
     }
 
+    public void testConvertAll_nullIsPassedThrough() {
+        List<String> strings = Lists.newArrayList("foo", null, "bar");
+
+        assertConvertAllMatchesConvert(sillyConverter(false), strings);
+        assertConvertAllMatchesConvert(sillyConverter(false).reverse(), strings);
+        assertConvertAllMatchesConvert(sillyConverter(true).andThen(sillyConverter(false)), strings);
+        assertConvertAllMatchesConvert(
+                sillyConverter(false).andThen(sillyConverter(true)).reverse(), strings);
+    }
+
+    private static <A, B> void assertConvertAllMatchesConvert(
+            Converter<A, B> converter, List<A> inputs) {
+        List<B> expected = Lists.newArrayList();
+        for (A input : inputs) {
+            expected.add(converter.convert(input));
+        }
+        assertEquals(expected, Lists.newArrayList(converter.convertAll(inputs)));
+    }
+
     public void testReverse() {
         Converter<Long, String> reverseConverter = STR_TO_LONG.reverse();
 
@@ -143,6 +162,39 @@ public class ConverterTest extends TestCase {
         assertEquals(first.andThen(STR_TO_LONG), first.andThen(STR_TO_LONG));
     }
 
+    public void testAndThen_deepChain() {
+        Converter<String, String> chain = roundTrips(STR_TO_LONG, 50);
+
+        assertEquals(STR_VAL, chain.convert(STR_VAL));
+        assertEquals(STR_VAL, chain.reverse().convert(STR_VAL));
+        assertNull(chain.convert(null));
+        assertNull(chain.reverse().convert(null));
+
+        assertEquals(roundTrips(STR_TO_LONG, 50), chain);
+        assertEquals(roundTrips(STR_TO_LONG, 50).hashCode(), chain.hashCode());
+        assertEquals(roundTrips(STR_TO_LONG, 50).reverse(), chain.reverse());
+        assertEquals(roundTrips(STR_TO_LONG, 50).reverse().hashCode(), chain.reverse().hashCode());
+        assertFalse(chain.reverse().equals(roundTrips(STR_TO_LONG, 49).reverse()));
+        assertFalse(chain.equals(roundTrips(STR_TO_LONG, 49)));
+    }
+
+    public void testSerialization_deepChain() {
+        Converter<String, String> chain = roundTrips(Longs.stringConverter(), 50);
+        Converter<String, String> reserialized = SerializableTester.reserializeAndAssert(chain);
+        assertEquals(STR_VAL, reserialized.convert(STR_VAL));
+        SerializableTester.reserializeAndAssert(chain.reverse());
+    }
+
+    /** Returns {@code converter.andThen(converter.reverse())}, chained {@code depth} times. */
+    private static Converter<String, String> roundTrips(Converter<String, Long> converter, int depth) {
+        Converter<String, String> roundTrip = converter.andThen(converter.reverse());
+        Converter<String, String> result = roundTrip;
+        for (int i = 1; i < depth; i++) {
+            result = result.andThen(roundTrip);
+        }
+        return result;
+    }
+
     public void testIdentityConverter() {
         Converter<String, String> stringIdentityConverter = Converter.identity();
 
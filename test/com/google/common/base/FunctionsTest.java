@@ -20,6 +20,8 @@ import com.google.common.annotations.GwtCompatible;
 import com.google.common.annotations.GwtIncompatible;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Maps;
+import com.google.common.testing.EqualsTester;
+import com.google.common.testing.SerializableTester;
 import junit.framework.TestCase;
 
 import java.io.Serializable;
@@ -221,6 +223,54 @@ public class FunctionsTest extends TestCase {
         assertEquals(c1.apply(5.0f), c2.apply(5.0f));
     }
 
+    public void testComposeDeepChain() {
+        Function<Integer, Integer> next = successorFunction(100);
+        Function<Integer, Integer> leftNested = deepComposition(next, 100, true);
+        Function<Integer, Integer> rightNested = deepComposition(next, 100, false);
+
+        assertEquals(100, (int) leftNested.apply(0));
+        assertEquals(100, (int) rightNested.apply(0));
+        assertEquals(-1, (int) leftNested.apply(1));
+        assertEquals(-1, (int) rightNested.apply(1));
+
+        new EqualsTester()
+                .addEqualityGroup(leftNested, deepComposition(next, 100, true))
+                .addEqualityGroup(rightNested, deepComposition(next, 100, false))
+                .addEqualityGroup(deepComposition(next, 99, true))
+                .testEquals();
+    }
+
+    @GwtIncompatible // SerializableTester
+    public void testComposeDeepChain_serialization() {
+        Function<Integer, Integer> next = successorFunction(100);
+        Function<Integer, Integer> composition = deepComposition(next, 100, true);
+        Function<Integer, Integer> reserialized = SerializableTester.reserializeAndAssert(composition);
+        assertEquals(100, (int) reserialized.apply(0));
+    }
+
+    /** Returns a function mapping {@code i} to {@code i + 1} for {@code i < max}, and others to -1. */
+    private static Function<Integer, Integer> successorFunction(int max) {
+        Map<Integer, Integer> successor = Maps.newHashMap();
+        for (int i = 0; i < max; i++) {
+            successor.put(i, i + 1);
+        }
+        return Functions.forMap(successor, -1);
+    }
+
+    /**
+     * Composes {@code depth} copies of {@code f}, each followed by {@code identity()}, nesting to the
+     * left or to the right.
+     */
+    private static Function<Integer, Integer> deepComposition(
+            Function<Integer, Integer> f, int depth, boolean nestLeft) {
+        Function<Integer, Integer> step = Functions.compose(Functions.<Integer>identity(), f);
+        Function<Integer, Integer> result = step;
+        for (int i = 1; i < depth; i++) {
+            result = nestLeft ? Functions.compose(step, result) : Functions.compose(result, step);
+        }
+        return result;
+    }
+
     public void testComposeOfPredicateAndFunctionIsAssociative() {
         Map<Float, String> m = ImmutableMap.of(4.0f, "A", 3.0f, "B", 2.0f, "C", 1.0f, "D");
         Predicate<? super Integer> h = Predicates.equalTo(42);
@@ -25,7 +25,9 @@ import junit.framework.TestCase;
 
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
@@ -362,4 +364,30 @@ public class JoinerTest extends TestCase {
                 "foo,bar,foo",
                 Joiner.on(",").useForNull("bar").join(new DontStringMeBro(), null, new DontStringMeBro()));
     }
+
+    @GwtIncompatible // StringBuilder.append in GWT invokes Object.toString(), unlike the JRE version.
+    public void testDontConvertCharSequenceToString_listsAndArrays() {
+        CharSequence foo = new DontStringMeBro();
+        List<CharSequence> parts = Arrays.asList(foo, null, foo);
+        Object[] partsArray = parts.toArray();
+
+        assertEquals("foo,foo", Joiner.on(",").skipNulls().join(parts));
+        assertEquals("foo,foo", Joiner.on(",").skipNulls().join(partsArray));
+        assertEquals("foo,bar,foo", Joiner.on(",").useForNull("bar").join(parts));
+        assertEquals("foo,bar,foo", Joiner.on(",").useForNull("bar").join(partsArray));
+        assertEquals("foo,,foo", Joiner.on(',').useForNull("").join(parts));
+
+        List<CharSequence> many = Collections.nCopies(1000, foo);
+        String expected = Strings.repeat("foo, ", 999) + "foo";
+        assertEquals(expected, Joiner.on(", ").join(many));
+        assertEquals(expected, Joiner.on(", ").join(many.toArray()));
+        assertEquals(expected, Joiner.on(", ").skipNulls().join(many));
+
+        Map<CharSequence, CharSequence> map = Maps.newLinkedHashMap();
+        map.put(foo, null);
+        map.put(null, foo);
+        MapJoiner mapJoiner = Joiner.on(";").useForNull("bar").withKeyValueSeparator(":");
+        assertEquals("foo:bar;bar:foo", mapJoiner.join(map));
+        assertEquals("foo:bar;bar:foo", mapJoiner.join(map.entrySet()));
+    }
 }
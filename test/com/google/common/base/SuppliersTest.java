@@ -38,6 +38,29 @@ import java.util.concurrent.atomic.AtomicReference;
 @GwtCompatible(emulated = true)
 public class SuppliersTest extends TestCase {
 
+    /**
+     * Number of threads racing on a cold memoized supplier in the {@code _manyThreads} tests: the
+     * largest platform-thread count that still runs quickly on CI. It stands in for the thousands of
+     * virtual threads a Loom-based server would use, which a Java 8 target cannot create.
+     */
+    private static final int MANY_THREADS = 200;
+
+    private static final Function<Supplier<Boolean>, Supplier<Boolean>> MEMOIZER =
+            new Function<Supplier<Boolean>, Supplier<Boolean>>() {
+                @Override
+                public Supplier<Boolean> apply(Supplier<Boolean> supplier) {
+                    return Suppliers.memoize(supplier);
+                }
+            };
+
+    private static final Function<Supplier<Boolean>, Supplier<Boolean>> EXPIRING_MEMOIZER =
+            new Function<Supplier<Boolean>, Supplier<Boolean>>() {
+                @Override
+                public Supplier<Boolean> apply(Supplier<Boolean> supplier) {
+                    return Suppliers.memoizeWithExpiration(supplier, Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+                }
+            };
+
     static class CountingSupplier implements Supplier<Integer> {
         int calls = 0;
 
@@ -221,35 +244,39 @@ public class SuppliersTest extends TestCase {
     @GwtIncompatible // Thread
 
     public void testExpiringMemoizedSupplierThreadSafe() throws Throwable {
-        Function<Supplier<Boolean>, Supplier<Boolean>> memoizer =
-                new Function<Supplier<Boolean>, Supplier<Boolean>>() {
-                    @Override
-                    public Supplier<Boolean> apply(Supplier<Boolean> supplier) {
-                        return Suppliers.memoizeWithExpiration(supplier, Long.MAX_VALUE, TimeUnit.NANOSECONDS);
-                    }
-                };
-        testSupplierThreadSafe(memoizer);
+        testSupplierThreadSafe(EXPIRING_MEMOIZER);
     }
 
     @GwtIncompatible // Thread
 
     public void testMemoizedSupplierThreadSafe() throws Throwable {
-        Function<Supplier<Boolean>, Supplier<Boolean>> memoizer =
-                new Function<Supplier<Boolean>, Supplier<Boolean>>() {
-                    @Override
-                    public Supplier<Boolean> apply(Supplier<Boolean> supplier) {
-                        return Suppliers.memoize(supplier);
-                    }
-                };
-        testSupplierThreadSafe(memoizer);
+        testSupplierThreadSafe(MEMOIZER);
+    }
+
+    @GwtIncompatible // Thread
+
+    public void testExpiringMemoizedSupplierThreadSafe_manyThreads() throws Throwable {
+        testSupplierThreadSafe(EXPIRING_MEMOIZER, MANY_THREADS);
+    }
+
+    @GwtIncompatible // Thread
+
+    public void testMemoizedSupplierThreadSafe_manyThreads() throws Throwable {
+        testSupplierThreadSafe(MEMOIZER, MANY_THREADS);
     }
 
     @GwtIncompatible // Thread
     public void testSupplierThreadSafe(Function<Supplier<Boolean>, Supplier<Boolean>> memoizer)
             throws Throwable {
+        testSupplierThreadSafe(memoizer, 3);
+    }
+
+    @GwtIncompatible // Thread
+    private void testSupplierThreadSafe(
+            Function<Supplier<Boolean>, Supplier<Boolean>> memoizer, final int numThreads)
+            throws Throwable {
         final AtomicInteger count = new AtomicInteger(0);
         final AtomicReference<Throwable> thrown = new AtomicReference<>(null);
-        final int numThreads = 3;
         final Thread[] threads = new Thread[numThreads];
         final long timeout = TimeUnit.SECONDS.toNanos(60);
 